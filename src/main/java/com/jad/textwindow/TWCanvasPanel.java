@@ -0,0 +1,112 @@
+package com.jad.textwindow;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+
+/**
+ * Shows a {@link TextWindowCanvas} as a grid of upper half blocks.
+ * <p>Each cell is rasterised straight into an image: its upper half takes the color of the even pixel row
+ * and its lower half the color of the odd pixel row. Only the cells whose colors changed since the last
+ * render are redrawn.</p>
+ * <p>The image is guarded by a lock, so the event dispatch thread never paints a half-rendered frame.</p>
+ */
+@SuppressWarnings("serial")
+final class TWCanvasPanel extends JComponent {
+    private final TextWindowCanvas canvas;
+    private final int cellWidth;
+    private final int cellHeight;
+    private final int columns;
+    private final int rows;
+    private final BufferedImage image;
+    private final int[] imagePixels;
+    private final int[] renderedPixels;
+    private final Object imageLock = new Object();
+
+    TWCanvasPanel(final TextWindowCanvas canvas, final int cellWidth, final int cellHeight) {
+        this.canvas = canvas;
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        this.columns = canvas.getWidth();
+        this.rows = canvas.getHeight() / 2;
+        this.image = new BufferedImage(this.columns * cellWidth, this.rows * cellHeight, BufferedImage.TYPE_INT_RGB);
+        this.imagePixels = ((DataBufferInt) this.image.getRaster().getDataBuffer()).getData();
+        this.renderedPixels = canvas.getPixels().clone();
+        for (int row = 0; row < this.rows; row++) {
+            for (int column = 0; column < this.columns; column++) {
+                this.drawCell(column, row);
+            }
+        }
+        this.setPreferredSize(new Dimension(this.image.getWidth(), this.image.getHeight()));
+        this.setOpaque(true);
+    }
+
+    /**
+     * Redraws the cells that changed since the last render and schedules a repaint of their bounds.
+     * <p>May be called from any thread, but not concurrently with drawing on the canvas: the cells are
+     * rasterised while holding the image lock, and {@link #paintComponent(Graphics)} takes the same lock
+     * on the event dispatch thread, so a repaint shows either the previous frame or this one.</p>
+     *
+     * @return the number of cells redrawn
+     */
+    int render() {
+        final int[] pixels = this.canvas.getPixels();
+        final int width = this.columns;
+        int changedCells = 0;
+        int minColumn = this.columns;
+        int minRow = this.rows;
+        int maxColumn = -1;
+        int maxRow = -1;
+        synchronized (this.imageLock) {
+            for (int row = 0; row < this.rows; row++) {
+                final int top = (2 * row) * width;
+                final int bottom = top + width;
+                for (int column = 0; column < this.columns; column++) {
+                    if ((pixels[top + column] == this.renderedPixels[top + column]) &&
+                            (pixels[bottom + column] == this.renderedPixels[bottom + column])) {
+                        continue;
+                    }
+                    this.renderedPixels[top + column] = pixels[top + column];
+                    this.renderedPixels[bottom + column] = pixels[bottom + column];
+                    this.drawCell(column, row);
+                    changedCells++;
+                    minColumn = Math.min(minColumn, column);
+                    maxColumn = Math.max(maxColumn, column);
+                    minRow = Math.min(minRow, row);
+                    maxRow = row;
+                }
+            }
+        }
+        if (changedCells > 0) {
+            this.repaint(minColumn * this.cellWidth, minRow * this.cellHeight,
+                         ((maxColumn - minColumn) + 1) * this.cellWidth,
+                         ((maxRow - minRow) + 1) * this.cellHeight);
+        }
+        return changedCells;
+    }
+
+    BufferedImage getImage() {
+        return this.image;
+    }
+
+    private void drawCell(final int column, final int row) {
+        final int top = this.renderedPixels[((2 * row) * this.columns) + column];
+        final int bottom = this.renderedPixels[(((2 * row) + 1) * this.columns) + column];
+        final int imageWidth = this.image.getWidth();
+        final int half = this.cellHeight / 2;
+        int offset = (row * this.cellHeight * imageWidth) + (column * this.cellWidth);
+        for (int y = 0; y < this.cellHeight; y++) {
+            Arrays.fill(this.imagePixels, offset, offset + this.cellWidth, (y < half) ? top : bottom);
+            offset += imageWidth;
+        }
+    }
+
+    @Override
+    protected void paintComponent(final Graphics graphics) {
+        synchronized (this.imageLock) {
+            graphics.drawImage(this.image, 0, 0, null);
+        }
+    }
+}
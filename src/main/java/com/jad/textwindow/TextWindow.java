@@ -20,10 +20,14 @@ import java.util.List;
  * The window can be displayed with a title, font size, background color, and foreground color.
  * The default font size is 12f, the default background color is white, and the default foreground color is black.
  */
+@SuppressWarnings("serial")
 public class TextWindow extends JFrame {
     private final int fontWidth;
     private final int fontHeight;
     private final JTextArea textArea;
+    private final TextWindowCanvas canvas;
+    private final TWCanvasPanel canvasPanel;
+    private final JComponent screen;
     private final Dimension screenSize;
     private final List<TWBooleanActionState> actionStates = new java.util.ArrayList<>();
     private final List<TWMouseActionState> mouseStates = new java.util.ArrayList<>();
@@ -56,7 +60,7 @@ public class TextWindow extends JFrame {
         this.setLocationRelativeTo(null);
         this.setLayout(new BorderLayout());
 
-        this.textArea = this.createTextArea(settings);
+        this.textArea = TextWindow.createTextArea(settings);
 
         this.fontWidth = this.textArea.getFontMetrics(this.textArea.getFont()).charWidth('M');
         this.fontHeight = this.textArea.getFontMetrics(this.textArea.getFont()).getHeight();
@@ -64,6 +68,16 @@ public class TextWindow extends JFrame {
         final Point temporary = this.textAreaPositionToRealPosition(
                 new Point(settings.getScreenWidth(), settings.getScreenHeight()));
         this.textArea.setSize(temporary.x, temporary.y);
+        if (settings.isPixelCanvas()) {
+            this.canvas = new TextWindowCanvas(settings.getScreenWidth(), 2 * settings.getScreenHeight(),
+                                               settings.getBackgroundColor().getRGB() & 0xFFFFFF);
+            this.canvasPanel = new TWCanvasPanel(this.canvas, this.fontWidth, this.fontHeight);
+            this.screen = this.canvasPanel;
+        } else {
+            this.canvas = null;
+            this.canvasPanel = null;
+            this.screen = this.textArea;
+        }
         this.createPanel(settings);
 
         this.glassPane = (JComponent) this.getGlassPane();
@@ -91,7 +105,7 @@ public class TextWindow extends JFrame {
         }
     }
 
-    private JTextArea createTextArea(TextWindowSettings settings) {
+    static JTextArea createTextArea(final TextWindowSettings settings) {
         JTextArea textArea = new JTextArea(settings.getScreenHeight(), settings.getScreenWidth());
         textArea.setFont(settings.getFont());
         textArea.setEditable(false);
@@ -117,7 +131,7 @@ public class TextWindow extends JFrame {
         panel.addMouseListener(null);
         panel.addMouseMotionListener(null);
         panel.addKeyListener(null);
-        panel.add(this.textArea, BorderLayout.CENTER);
+        panel.add(this.screen, BorderLayout.CENTER);
         this.setContentPane(panel);
     }
 
@@ -181,16 +195,44 @@ public class TextWindow extends JFrame {
      * Displays the text in the window.
      *
      * @param text - the text to be displayed
+     *
+     * @throws IllegalStateException if the text window is in pixel canvas mode
      */
     public void display(final String text) {
-        StringBuilder stringBuilder = new StringBuilder();
-        String[] lines = text.split("\n");
-        for (int i = 0; i < this.screenSize.height; i++) {
-            stringBuilder
-                    .append(TextWindowUtils.formatString((i < lines.length) ? lines[i] : "", this.screenSize.width))
-                    .append(((i + 1) == this.screenSize.height) ? "" : "\n");
+        if (this.canvas != null) {
+            throw new IllegalStateException("Text cannot be displayed in pixel canvas mode.");
+        }
+        this.textArea.setText(TextWindowUtils.formatScreen(text, this.screenSize.width, this.screenSize.height));
+    }
+
+    /**
+     * Returns the pixel canvas of the window.
+     * <p>Draw on the canvas, then call {@link #displayCanvas()} to show the changes.</p>
+     *
+     * @return the pixel canvas of the window
+     *
+     * @throws IllegalStateException if the text window is not in pixel canvas mode
+     */
+    public TextWindowCanvas getCanvas() {
+        if (this.canvas == null) {
+            throw new IllegalStateException("Pixel canvas mode is not enabled.");
         }
-        this.textArea.setText(stringBuilder.toString());
+        return this.canvas;
+    }
+
+    /**
+     * Displays the pixel canvas in the window.
+     * <p>Only the cells whose pixels changed since the last call are redrawn.</p>
+     * <p>This method may be called from any thread, but not while another thread draws on the canvas.
+     * The window never paints a partially displayed canvas.</p>
+     *
+     * @throws IllegalStateException if the text window is not in pixel canvas mode
+     */
+    public void displayCanvas() {
+        if (this.canvasPanel == null) {
+            throw new IllegalStateException("Pixel canvas mode is not enabled.");
+        }
+        this.canvasPanel.render();
     }
 
     @Override
@@ -199,7 +241,7 @@ public class TextWindow extends JFrame {
     }
 
     private Point realPositionToTextAreaPosition(final Point position) {
-        Point textAreaPosition = this.textArea.getLocationOnScreen();
+        Point textAreaPosition = this.screen.getLocationOnScreen();
         Point glassPanePosition = this.glassPane.getLocationOnScreen();
         int deltaX = textAreaPosition.x - glassPanePosition.x;
         int deltaY = textAreaPosition.y - glassPanePosition.y;
@@ -244,24 +286,14 @@ public class TextWindow extends JFrame {
      * @return true if the action is on, false otherwise
      */
     public boolean isOn(final String action) {
-        for (TWBooleanActionState state : this.actionStates) {
-            if (state.is(action)) return state.getValue();
-        }
-        return false;
+        return TextWindowUtils.isOn(this.actionStates, action);
     }
 
     private void setMouseClic(final int button, final Point point) {
-        TWMouseActionState state = this.getMouseState(button);
+        TWMouseActionState state = TextWindowUtils.mouseState(this.mouseStates, button);
         if (state != null) state.setValue(this.realPositionToTextAreaPosition(point));
     }
 
-    private TWMouseActionState getMouseState(final int button) {
-        for (TWMouseActionState state : this.mouseStates) {
-            if (state.is("button" + button)) return state;
-        }
-        return null;
-    }
-
     /**
      * Returns the position of the mouse when it was clicked.
      *
@@ -270,9 +302,7 @@ public class TextWindow extends JFrame {
      * @return the position of the mouse when it was clicked
      */
     public Point getMouseClickedPosition(final int button) {
-        TWMouseActionState state = this.getMouseState(button);
-        if (state != null) return state.getValue();
-        return null;
+        return TextWindowUtils.mouseClickedPosition(this.mouseStates, button);
     }
 
     private class MouseMotionHandler implements MouseMotionListener {
@@ -0,0 +1,244 @@
+package com.jad.textwindow;
+
+import java.util.Arrays;
+
+/**
+ * A pixel framebuffer displayed by a {@link TextWindow} in pixel canvas mode.
+ * <p>The canvas is {@code screenWidth} pixels wide and {@code 2 * screenHeight} pixels high:
+ * each character cell shows two vertically stacked pixels as an upper half block.</p>
+ * <p>Pixels are stored row by row in an {@code int[]} as {@code 0xRRGGBB} values.
+ * Drawing only updates the framebuffer; call {@link TextWindow#displayCanvas()} to show the changes.</p>
+ * <p>Drawing outside the canvas is clipped.</p>
+ */
+public final class TextWindowCanvas {
+    private final int width;
+    private final int height;
+    private final int[] pixels;
+
+    TextWindowCanvas(final int width, final int height, final int rgb) {
+        this.width = width;
+        this.height = height;
+        this.pixels = new int[width * height];
+        this.clear(rgb);
+    }
+
+    /**
+     * Returns the width of the canvas in pixels.
+     *
+     * @return - the width of the canvas in pixels
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Returns the height of the canvas in pixels.
+     *
+     * @return - the height of the canvas in pixels
+     */
+    public int getHeight() {
+        return this.height;
+    }
+
+    /**
+     * Returns the framebuffer of the canvas.
+     * <p>The pixel at (x, y) is at index {@code y * getWidth() + x}. Changes made to this array are shown
+     * by the next call to {@link TextWindow#displayCanvas()}.</p>
+     *
+     * @return - the framebuffer of the canvas
+     */
+    public int[] getPixels() {
+        return this.pixels;
+    }
+
+    /**
+     * Returns the color of a pixel.
+     *
+     * @param x - the x coordinate of the pixel
+     * @param y - the y coordinate of the pixel
+     *
+     * @return - the color of the pixel
+     *
+     * @throws IndexOutOfBoundsException if the pixel is outside the canvas
+     */
+    public int getPixel(final int x, final int y) {
+        if (!this.contains(x, y)) {
+            throw new IndexOutOfBoundsException("Pixel (" + x + ", " + y + ") is outside the canvas.");
+        }
+        return this.pixels[(y * this.width) + x];
+    }
+
+    /**
+     * Sets the color of a pixel.
+     *
+     * @param x   - the x coordinate of the pixel
+     * @param y   - the y coordinate of the pixel
+     * @param rgb - the color of the pixel
+     */
+    public void setPixel(final int x, final int y, final int rgb) {
+        if (this.contains(x, y)) this.pixels[(y * this.width) + x] = rgb;
+    }
+
+    /**
+     * Fills the whole canvas with a color.
+     *
+     * @param rgb - the color to fill the canvas with
+     */
+    public void clear(final int rgb) {
+        Arrays.fill(this.pixels, rgb);
+    }
+
+    /**
+     * Draws a line between two pixels.
+     *
+     * @param x0  - the x coordinate of the first pixel
+     * @param y0  - the y coordinate of the first pixel
+     * @param x1  - the x coordinate of the second pixel
+     * @param y1  - the y coordinate of the second pixel
+     * @param rgb - the color of the line
+     */
+    public void drawLine(final int x0, final int y0, final int x1, final int y1, final int rgb) {
+        final long deltaX = Math.abs((long) x1 - x0);
+        final long deltaY = Math.abs((long) y1 - y0);
+        final boolean xMajor = deltaX >= deltaY;
+        final long major = xMajor ? deltaX : deltaY;
+        final long minor = xMajor ? deltaY : deltaX;
+        if (major == 0) {
+            this.setPixel(x0, y0, rgb);
+            return;
+        }
+        final long majorStart = xMajor ? x0 : y0;
+        final long minorStart = xMajor ? y0 : x0;
+        final int majorStep = ((xMajor ? x1 : y1) < majorStart) ? -1 : 1;
+        final int minorStep = ((xMajor ? y1 : x1) < minorStart) ? -1 : 1;
+        final long majorSize = xMajor ? this.width : this.height;
+        final long minorSize = xMajor ? this.height : this.width;
+
+        // The pixel at step k is (majorStart + majorStep * k, minorStart + minorStep * minorSteps(k)):
+        // clip the range of steps to the canvas instead of stepping through hidden pixels.
+        long first = (majorStep > 0) ? -majorStart : majorStart - (majorSize - 1);
+        long last = (majorStep > 0) ? (majorSize - 1) - majorStart : majorStart;
+        first = Math.max(0, first);
+        last = Math.min(major, last);
+        if (first > last) return;
+        final long fewestMinorSteps = (minorStep > 0) ? -minorStart : minorStart - (minorSize - 1);
+        final long mostMinorSteps = (minorStep > 0) ? (minorSize - 1) - minorStart : minorStart;
+        first = TextWindowCanvas.firstStepReaching(fewestMinorSteps, minor, major, first, last + 1);
+        last = TextWindowCanvas.firstStepReaching(mostMinorSteps + 1, minor, major, first, last + 1) - 1;
+        if (first > last) return;
+
+        long minorSteps = TextWindowCanvas.minorSteps(minor, major, first);
+        long error = (((2 * minor) * first) + major) - ((2 * major) * minorSteps);
+        for (long step = first; step <= last; step++) {
+            final int majorPosition = (int) (majorStart + (majorStep * step));
+            final int minorPosition = (int) (minorStart + (minorStep * minorSteps));
+            if (xMajor) {
+                this.pixels[(minorPosition * this.width) + majorPosition] = rgb;
+            } else {
+                this.pixels[(majorPosition * this.width) + minorPosition] = rgb;
+            }
+            error += 2 * minor;
+            if (error >= 2 * major) {
+                error -= 2 * major;
+                minorSteps++;
+            }
+        }
+    }
+
+    // Returns the number of minor axis steps taken after the given number of major axis steps,
+    // floor((2 * minor * step + major) / (2 * major)), without overflowing for 32 bit deltas.
+    private static long minorSteps(final long minor, final long major, final long step) {
+        final long highSteps = 2 * minor * (step >>> 16);
+        final long rest = ((highSteps % (2 * major)) << 16) + (2 * minor * (step & 0xFFFF)) + major;
+        return ((highSteps / (2 * major)) << 16) + (rest / (2 * major));
+    }
+
+    // Returns the first step in [from, to) that has taken at least the given number of minor axis steps, or to.
+    private static long firstStepReaching(final long minorSteps, final long minor, final long major,
+                                          long from, long to) {
+        while (from < to) {
+            final long middle = (from + to) >>> 1;
+            if (TextWindowCanvas.minorSteps(minor, major, middle) >= minorSteps) {
+                to = middle;
+            } else {
+                from = middle + 1;
+            }
+        }
+        return from;
+    }
+
+    /**
+     * Draws the outline of a rectangle.
+     *
+     * @param x      - the x coordinate of the top left pixel
+     * @param y      - the y coordinate of the top left pixel
+     * @param width  - the width of the rectangle in pixels
+     * @param height - the height of the rectangle in pixels
+     * @param rgb    - the color of the rectangle
+     */
+    public void drawRect(final int x, final int y, final int width, final int height, final int rgb) {
+        if ((width <= 0) || (height <= 0)) return;
+        this.fillRect(x, y, width, 1, rgb);
+        this.fillRect(x, (int) Math.min(Integer.MAX_VALUE, ((long) y + height) - 1), width, 1, rgb);
+        this.fillRect(x, y, 1, height, rgb);
+        this.fillRect((int) Math.min(Integer.MAX_VALUE, ((long) x + width) - 1), y, 1, height, rgb);
+    }
+
+    /**
+     * Fills a rectangle.
+     *
+     * @param x      - the x coordinate of the top left pixel
+     * @param y      - the y coordinate of the top left pixel
+     * @param width  - the width of the rectangle in pixels
+     * @param height - the height of the rectangle in pixels
+     * @param rgb    - the color of the rectangle
+     */
+    public void fillRect(final int x, final int y, final int width, final int height, final int rgb) {
+        final int startX = Math.max(0, x);
+        final int startY = Math.max(0, y);
+        final int endX = (int) Math.min(this.width, (long) x + width);
+        final int endY = (int) Math.min(this.height, (long) y + height);
+        if ((startX >= endX) || (startY >= endY)) return;
+        for (int row = startY; row < endY; row++) {
+            final int offset = row * this.width;
+            Arrays.fill(this.pixels, offset + startX, offset + endX, rgb);
+        }
+    }
+
+    /**
+     * Copies an image into the canvas.
+     *
+     * @param source       - the pixels of the image, row by row, as {@code 0xRRGGBB} values
+     * @param sourceWidth  - the width of the image in pixels
+     * @param sourceHeight - the height of the image in pixels
+     * @param x            - the x coordinate where the top left pixel of the image is copied
+     * @param y            - the y coordinate where the top left pixel of the image is copied
+     *
+     * @throws IllegalArgumentException if the size of the image is negative or larger than the source
+     */
+    public void blit(final int[] source, final int sourceWidth, final int sourceHeight, final int x, final int y) {
+        if ((sourceWidth < 0) || (sourceHeight < 0)) {
+            throw new IllegalArgumentException(
+                    "Source size " + sourceWidth + "x" + sourceHeight + " cannot be negative.");
+        }
+        final long sourceSize = (long) sourceWidth * sourceHeight;
+        if (source.length < sourceSize) {
+            throw new IllegalArgumentException(
+                    "Source has " + source.length + " pixels, " + sourceSize + " expected.");
+        }
+        final int startX = Math.max(0, x);
+        final int startY = Math.max(0, y);
+        final int endX = (int) Math.min(this.width, (long) x + sourceWidth);
+        final int endY = (int) Math.min(this.height, (long) y + sourceHeight);
+        if ((startX >= endX) || (startY >= endY)) return;
+        for (int row = startY; row < endY; row++) {
+            System.arraycopy(source, (int) ((((long) row - y) * sourceWidth) + ((long) startX - x)),
+                             this.pixels, (row * this.width) + startX,
+                             endX - startX);
+        }
+    }
+
+    private boolean contains(final int x, final int y) {
+        return (x >= 0) && (y >= 0) && (x < this.width) && (y < this.height);
+    }
+}
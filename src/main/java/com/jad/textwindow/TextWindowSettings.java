@@ -16,6 +16,7 @@ import java.util.Objects;
  * <li>whether to listen to mouse motion and keyboard events</li>
  * <li>the screen width and height.</li>
  * <li>if the mouse cursor is visible</li>
+ * <li>if the text window is in pixel canvas mode</li>
  * </ul>
  * <p>The screen width and height are in characters.</p>
  * <p>The default values are:</p>
@@ -30,6 +31,7 @@ import java.util.Objects;
  * <li>screen width: {@value TextWindowUtils#DEFAULT_SCREEN_WIDTH}</li>
  * <li>screen height: {@value TextWindowUtils#DEFAULT_SCREEN_HEIGHT}</li>
  * <li>mouse visibility: {@value TextWindowUtils#DEFAULT_MOUSE_VISIBILITY}</li>
+ * <li>pixel canvas mode: {@value TextWindowUtils#DEFAULT_PIXEL_CANVAS}</li>
  * </ul>
  */
 @SuppressWarnings({"unused", "GrazieInspection"})
@@ -45,6 +47,7 @@ public final class TextWindowSettings {
     private int screenWidth = TextWindowUtils.DEFAULT_SCREEN_WIDTH;
     private int screenHeight = TextWindowUtils.DEFAULT_SCREEN_HEIGHT;
     private boolean mouseVisible = TextWindowUtils.DEFAULT_MOUSE_VISIBILITY;
+    private boolean pixelCanvas = TextWindowUtils.DEFAULT_PIXEL_CANVAS;
     private Font font;
 
     /**
@@ -260,4 +263,23 @@ public final class TextWindowSettings {
     public void setMouseVisible(final boolean mouseVisible) {
         this.mouseVisible = mouseVisible;
     }
+
+    /**
+     * Returns true if the text window is in pixel canvas mode.
+     *
+     * @return - true if the text window is in pixel canvas mode
+     */
+    public boolean isPixelCanvas() {
+        return this.pixelCanvas;
+    }
+
+    /**
+     * Sets whether the text window should be in pixel canvas mode.
+     * In pixel canvas mode, the text window displays a {@link TextWindowCanvas} instead of text.
+     *
+     * @param pixelCanvas - true if the text window should be in pixel canvas mode
+     */
+    public void setPixelCanvas(final boolean pixelCanvas) {
+        this.pixelCanvas = pixelCanvas;
+    }
 }
@@ -1,6 +1,7 @@
 package com.jad.textwindow;
 
 import java.awt.*;
+import java.util.List;
 
 enum TextWindowUtils {
     ;
@@ -16,9 +17,42 @@ enum TextWindowUtils {
     static final String DEFAULT_FONT = "CascadiaMono.ttf";
     static final int MIN_SCREEN_WIDTH = 20;
     static final int MIN_SCREEN_HEIGHT = 20;
+    static final boolean DEFAULT_PIXEL_CANVAS = false;
 
     public static String formatString(String str, int length) {
         if (str.length() > length) return str.substring(0, length);
         return String.format("%-" + length + "s", str);
     }
+
+    static String formatScreen(final String text, final int width, final int height) {
+        final StringBuilder stringBuilder = new StringBuilder();
+        final String[] lines = text.split("\n");
+        for (int i = 0; i < height; i++) {
+            stringBuilder
+                    .append(TextWindowUtils.formatString((i < lines.length) ? lines[i] : "", width))
+                    .append(((i + 1) == height) ? "" : "\n");
+        }
+        return stringBuilder.toString();
+    }
+
+    static <S extends TWActionState<?>> S findState(final List<S> states, final String key) {
+        for (S state : states) {
+            if (state.is(key)) return state;
+        }
+        return null;
+    }
+
+    static boolean isOn(final List<TWBooleanActionState> actionStates, final String action) {
+        final TWBooleanActionState state = TextWindowUtils.findState(actionStates, action);
+        return (state != null) && state.getValue();
+    }
+
+    static TWMouseActionState mouseState(final List<TWMouseActionState> mouseStates, final int button) {
+        return TextWindowUtils.findState(mouseStates, "button" + button);
+    }
+
+    static Point mouseClickedPosition(final List<TWMouseActionState> mouseStates, final int button) {
+        final TWMouseActionState state = TextWindowUtils.mouseState(mouseStates, button);
+        return (state != null) ? state.getValue() : null;
+    }
 }
@@ -0,0 +1,183 @@
+package com.jad.textwindow;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TextWindowCanvasTest {
+    private static final int WHITE = 0xFFFFFF;
+    private static final int RED = 0xFF0000;
+    private static final int BLUE = 0x0000FF;
+
+    @Test
+    void fillRectIsClipped() {
+        final TextWindowCanvas canvas = new TextWindowCanvas(4, 4, WHITE);
+        canvas.fillRect(-1, 2, 3, 5, RED);
+
+        assertArrayEquals(new int[]{
+                WHITE, WHITE, WHITE, WHITE,
+                WHITE, WHITE, WHITE, WHITE,
+                RED, RED, WHITE, WHITE,
+                RED, RED, WHITE, WHITE}, canvas.getPixels());
+    }
+
+    @Test
+    void drawRectDrawsOutline() {
+        final TextWindowCanvas canvas = new TextWindowCanvas(4, 4, WHITE);
+        canvas.drawRect(0, 0, 4, 4, RED);
+
+        assertArrayEquals(new int[]{
+                RED, RED, RED, RED,
+                RED, WHITE, WHITE, RED,
+                RED, WHITE, WHITE, RED,
+                RED, RED, RED, RED}, canvas.getPixels());
+    }
+
+    @Test
+    void drawLineReachesBothEnds() {
+        final TextWindowCanvas canvas = new TextWindowCanvas(4, 4, WHITE);
+        canvas.drawLine(3, 3, 0, 0, RED);
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(RED, canvas.getPixel(i, i));
+        }
+        assertEquals(WHITE, canvas.getPixel(3, 0));
+    }
+
+    @Test
+    void drawLineClipsExtremeEndpoints() {
+        final TextWindowCanvas canvas = new TextWindowCanvas(4, 4, WHITE);
+        canvas.drawLine(1, 0, 1, Integer.MAX_VALUE, RED);
+        canvas.drawLine(Integer.MIN_VALUE, 2, Integer.MAX_VALUE, 2, BLUE);
+        canvas.drawLine(Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, RED);
+
+        assertArrayEquals(new int[]{
+                RED, RED, WHITE, WHITE,
+                WHITE, RED, WHITE, WHITE,
+                BLUE, BLUE, RED, BLUE,
+                WHITE, RED, WHITE, RED}, canvas.getPixels());
+    }
+
+    @Test
+    void drawLineOutsideDrawsNothing() {
+        final TextWindowCanvas canvas = new TextWindowCanvas(4, 4, WHITE);
+        canvas.drawLine(Integer.MIN_VALUE, -1, Integer.MAX_VALUE, -1, RED);
+        canvas.drawLine(5, Integer.MIN_VALUE, 6, Integer.MAX_VALUE, RED);
+
+        final int[] expected = new int[16];
+        Arrays.fill(expected, WHITE);
+        assertArrayEquals(expected, canvas.getPixels());
+    }
+
+    @Test
+    void drawLineClipsPartVisibleLinesLikeUnclippedLines() {
+        final int[][] lines = {
+                {0, -1, 10, 1},
+                {21, 28, 4, -6},
+                {-7, 3, 30, 9},
+                {25, 12, -40, 2},
+                {3, -30, 9, 45},
+                {-2, 50, 15, -33},
+                {-1_000, -999, 1_000, 1_001},
+                {-3_000_000, 4, 2_000_000, 15}};
+        for (int[] line : lines) {
+            final TextWindowCanvas canvas = new TextWindowCanvas(20, 20, WHITE);
+            final TextWindowCanvas expected = new TextWindowCanvas(20, 20, WHITE);
+            canvas.drawLine(line[0], line[1], line[2], line[3], RED);
+            TextWindowCanvasTest.drawLineWithSetPixel(expected, line[0], line[1], line[2], line[3], RED);
+
+            assertArrayEquals(expected.getPixels(), canvas.getPixels(), Arrays.toString(line));
+        }
+    }
+
+    @Test
+    void fillRectDoesNotOverflow() {
+        final TextWindowCanvas canvas = new TextWindowCanvas(4, 2, WHITE);
+        canvas.fillRect(2, 1, Integer.MAX_VALUE, Integer.MAX_VALUE, RED);
+
+        assertArrayEquals(new int[]{
+                WHITE, WHITE, WHITE, WHITE,
+                WHITE, WHITE, RED, RED}, canvas.getPixels());
+    }
+
+    @Test
+    void blitIsClipped() {
+        final TextWindowCanvas canvas = new TextWindowCanvas(3, 2, WHITE);
+        canvas.blit(new int[]{RED, BLUE, BLUE, RED}, 2, 2, 2, -1);
+
+        assertArrayEquals(new int[]{
+                WHITE, WHITE, BLUE,
+                WHITE, WHITE, WHITE}, canvas.getPixels());
+    }
+
+    @Test
+    void blitRejectsShortSource() {
+        final TextWindowCanvas canvas = new TextWindowCanvas(3, 2, WHITE);
+
+        assertThrows(IllegalArgumentException.class, () -> canvas.blit(new int[3], 2, 2, 0, 0));
+    }
+
+    @Test
+    void blitRejectsOverflowingOrNegativeSize() {
+        final TextWindowCanvas canvas = new TextWindowCanvas(3, 2, WHITE);
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> canvas.blit(new int[4], 65_536, 65_536, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> canvas.blit(new int[4], -2, -2, 0, 0));
+    }
+
+    @Test
+    void getPixelRejectsOutsidePixel() {
+        final TextWindowCanvas canvas = new TextWindowCanvas(3, 2, WHITE);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> canvas.getPixel(3, 0));
+    }
+
+    @Test
+    void renderDrawsChangedCellsAsUpperHalfBlocks() {
+        final TextWindowCanvas canvas = new TextWindowCanvas(2, 4, WHITE);
+        final TWCanvasPanel canvasPanel = new TWCanvasPanel(canvas, 2, 4);
+
+        assertEquals(0, canvasPanel.render());
+
+        canvas.setPixel(1, 2, RED);
+        canvas.setPixel(1, 3, BLUE);
+        assertEquals(1, canvasPanel.render());
+        assertEquals(0, canvasPanel.render());
+
+        final BufferedImage image = canvasPanel.getImage();
+        assertEquals(RED, image.getRGB(2, 4) & 0xFFFFFF);
+        assertEquals(RED, image.getRGB(3, 5) & 0xFFFFFF);
+        assertEquals(BLUE, image.getRGB(2, 6) & 0xFFFFFF);
+        assertEquals(BLUE, image.getRGB(3, 7) & 0xFFFFFF);
+        assertEquals(WHITE, image.getRGB(0, 4) & 0xFFFFFF);
+        assertEquals(WHITE, image.getRGB(3, 3) & 0xFFFFFF);
+    }
+
+    private static void drawLineWithSetPixel(final TextWindowCanvas canvas, int x0, int y0, final int x1,
+                                             final int y1, final int rgb) {
+        final long deltaX = Math.abs((long) x1 - x0);
+        final long deltaY = -Math.abs((long) y1 - y0);
+        final int stepX = (x0 < x1) ? 1 : -1;
+        final int stepY = (y0 < y1) ? 1 : -1;
+        long error = deltaX + deltaY;
+        while (true) {
+            canvas.setPixel(x0, y0, rgb);
+            if ((x0 == x1) && (y0 == y1)) return;
+            final long doubleError = 2 * error;
+            if (doubleError >= deltaY) {
+                error += deltaY;
+                x0 += stepX;
+            }
+            if (doubleError <= deltaX) {
+                error += deltaX;
+                y0 += stepY;
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.jad.textwindow;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.KeyEvent;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Headless allocation and latency regression tests for the frame loop.
+ * <p>Each test drives one path of the frame loop for thousands of frames and fails when the bytes allocated
+ * per frame exceed the budgets stored in {@code frame-budgets.properties}.</p>
+ * <p>Per-frame latency percentiles depend on the machine, so they are only checked when the
+ * {@value #LATENCY_BUDGETS} system property is {@code true}.</p>
+ */
+class TextWindowFrameLoopTest {
+    private static final String BUDGETS = "/frame-budgets.properties";
+    private static final String LATENCY_BUDGETS = "textwindow.latencyBudgets";
+    private static final int WARMUP_FRAMES = 1_000;
+    private static final int MEASURED_FRAMES = 5_000;
+    private static final String TEXT = """
+            Press ESC to exit.
+            Press M to toggle mouse coordinate display.
+            Press F to change foreground color.
+            Press B to change background color.
+            Mouse position: java.awt.Point[x=12,y=5]""";
+
+    private static final Properties budgets = new Properties();
+    private static com.sun.management.ThreadMXBean threadMXBean;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        try (InputStream stream = Objects.requireNonNull(TextWindowFrameLoopTest.class.getResourceAsStream(BUDGETS))) {
+            TextWindowFrameLoopTest.budgets.load(stream);
+        }
+        TextWindowFrameLoopTest.threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(TextWindowFrameLoopTest.threadMXBean.isThreadAllocatedMemorySupported(),
+                   "Thread allocated memory is not supported by this JVM.");
+        TextWindowFrameLoopTest.threadMXBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    void displayStaysWithinBudget() {
+        final TextWindowSettings settings = new TextWindowSettings();
+        final JTextArea textArea = TextWindow.createTextArea(settings);
+        final int width = settings.getScreenWidth();
+        final int height = settings.getScreenHeight();
+
+        this.checkBudget("display",
+                         () -> textArea.setText(TextWindowUtils.formatScreen(TEXT, width, height)));
+    }
+
+    @Test
+    void inputStatesStayWithinBudget() {
+        final TextWindowSettings settings = new TextWindowSettings();
+        settings.addKeyboardListener(KeyEvent.VK_ESCAPE, "exit");
+        settings.addKeyboardListener(KeyEvent.VK_M, "mouseCoordinateDisplay");
+        settings.addKeyboardListener(KeyEvent.VK_F, "changeForegroundColor");
+        settings.addKeyboardListener(KeyEvent.VK_B, "changeBackgroundColor");
+        final List<TWKeyboardListener> keyboardListeners = settings.getKeyboardListeners();
+        final List<TWBooleanActionState> actionStates =
+                keyboardListeners.stream().map(TWKeyboardListener::state).toList();
+        final List<TWMouseActionState> mouseStates = List.of(new TWMouseActionState("button1"),
+                                                             new TWMouseActionState("button2"),
+                                                             new TWMouseActionState("button3"));
+        final Point clickedPosition = new Point(12, 5);
+        final int[] frame = {0};
+
+        this.checkBudget("input", () -> {
+            final TWKeyboardListener listener = keyboardListeners.get(frame[0] % keyboardListeners.size());
+            final TWMouseActionState mouseState = mouseStates.get(frame[0] % mouseStates.size());
+            listener.press();
+            mouseState.setValue(clickedPosition);
+            boolean on = false;
+            for (TWKeyboardListener keyboardListener : keyboardListeners) {
+                on |= TextWindowUtils.isOn(actionStates, keyboardListener.getKey());
+            }
+            for (int button = 1; button < 4; button++) {
+                on |= TextWindowUtils.mouseClickedPosition(mouseStates, button) != null;
+            }
+            assertTrue(on);
+            listener.release();
+            mouseState.release();
+            frame[0]++;
+        });
+    }
+
+    @Test
+    void paintingStaysWithinBudget() {
+        final TextWindowSettings settings = new TextWindowSettings();
+        final JTextArea textArea = TextWindow.createTextArea(settings);
+        textArea.setText(TextWindowUtils.formatScreen(TEXT, settings.getScreenWidth(), settings.getScreenHeight()));
+        textArea.setSize(textArea.getPreferredSize());
+        final BufferedImage image = new BufferedImage(textArea.getWidth(), textArea.getHeight(),
+                                                      BufferedImage.TYPE_INT_RGB);
+        final Graphics2D graphics = image.createGraphics();
+
+        try {
+            this.checkBudget("paint", () -> textArea.paint(graphics));
+        } finally {
+            graphics.dispose();
+        }
+    }
+
+    @Test
+    void pixelCanvasStaysWithinBudget() {
+        final TextWindowSettings settings = new TextWindowSettings();
+        final TextWindowCanvas canvas = new TextWindowCanvas(settings.getScreenWidth(),
+                                                             2 * settings.getScreenHeight(), 0xFFFFFF);
+        final TWCanvasPanel canvasPanel = new TWCanvasPanel(canvas, 8, 16);
+        final int[] sprite = new int[16 * 16];
+        Arrays.fill(sprite, 0x3366CC);
+        final int[] frame = {0};
+
+        this.checkBudget("canvas", () -> {
+            final int width = canvas.getWidth();
+            final int height = canvas.getHeight();
+            canvas.clear(0xFFFFFF);
+            for (int x = 1; x < width; x++) {
+                final int y0 = (int) ((height / 2) * (1 + Math.sin((x - 1 + frame[0]) * 0.1)));
+                final int y1 = (int) ((height / 2) * (1 + Math.sin((x + frame[0]) * 0.1)));
+                canvas.drawLine(x - 1, y0, x, y1, 0xCC3333);
+            }
+            canvas.drawRect(0, 0, width, height, 0x000000);
+            canvas.fillRect(frame[0] % width, 2, 4, 4, 0x33CC33);
+            canvas.blit(sprite, 16, 16, width - 16 - (frame[0] % width), height - 16);
+            canvasPanel.render();
+            frame[0]++;
+        });
+    }
+
+    private void checkBudget(final String scenario, final Runnable frame) {
+        for (int i = 0; i < WARMUP_FRAMES; i++) {
+            frame.run();
+        }
+
+        final long[] latencies = new long[MEASURED_FRAMES];
+        final long allocatedBefore = TextWindowFrameLoopTest.threadMXBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_FRAMES; i++) {
+            final long start = System.nanoTime();
+            frame.run();
+            latencies[i] = System.nanoTime() - start;
+        }
+        final long allocatedAfter = TextWindowFrameLoopTest.threadMXBean.getCurrentThreadAllocatedBytes();
+        Arrays.sort(latencies);
+
+        final long bytesPerFrame = (allocatedAfter - allocatedBefore) / MEASURED_FRAMES;
+        final long p50Micros = TextWindowFrameLoopTest.percentile(latencies, 50) / 1_000;
+        final long p99Micros = TextWindowFrameLoopTest.percentile(latencies, 99) / 1_000;
+
+        TextWindowFrameLoopTest.assertWithinBudget(scenario, "bytesPerFrame", bytesPerFrame);
+        if (Boolean.getBoolean(LATENCY_BUDGETS)) {
+            TextWindowFrameLoopTest.assertWithinBudget(scenario, "p50Micros", p50Micros);
+            TextWindowFrameLoopTest.assertWithinBudget(scenario, "p99Micros", p99Micros);
+        }
+    }
+
+    private static long percentile(final long[] sortedValues, final int percentile) {
+        final int index = (int) Math.ceil((percentile / 100.0) * sortedValues.length) - 1;
+        return sortedValues[Math.max(0, Math.min(index, sortedValues.length - 1))];
+    }
+
+    private static void assertWithinBudget(final String scenario, final String metric, final long value) {
+        final String key = scenario + "." + metric;
+        final String budget = TextWindowFrameLoopTest.budgets.getProperty(key);
+        assertTrue(budget != null, "Missing budget " + key + " in " + BUDGETS + ".");
+        final long limit = Long.parseLong(budget.trim());
+        assertTrue(value <= limit, key + " is " + value + ", budget is " + limit + ".");
+    }
+}